@@ -0,0 +1,53 @@
+package com.azure.discord.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * REST API 인증 필터 - X-API-Key 헤더가 api.key 설정값과 일치해야 /api/** 호출 가능
+ * api.key가 설정되지 않으면 REST API 전체가 비활성화되어 503을 반환한다.
+ */
+@Slf4j
+@Component
+public class ApiKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-API-Key";
+
+    @Value("${api.key:}")
+    private String apiKey;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (apiKey == null || apiKey.isBlank()) {
+            log.warn("api.key가 설정되지 않아 REST API 요청을 거부합니다: {}", request.getRequestURI());
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "REST API가 비활성화되어 있습니다.");
+            return;
+        }
+
+        String provided = request.getHeader(HEADER_NAME);
+        if (provided == null || !MessageDigest.isEqual(
+                provided.getBytes(StandardCharsets.UTF_8), apiKey.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("REST API 인증 실패: {} {}", request.getMethod(), request.getRequestURI());
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "API 키가 올바르지 않습니다.");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
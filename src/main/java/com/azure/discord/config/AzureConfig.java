@@ -1,17 +1,26 @@
 package com.azure.discord.config;
 
 import com.azure.core.credential.TokenCredential;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.netty.NettyAsyncHttpClientBuilder;
+import com.azure.core.http.policy.ExponentialBackoff;
+import com.azure.core.http.policy.ExponentialBackoffOptions;
+import com.azure.core.http.policy.RetryPolicy;
 import com.azure.identity.ClientSecretCredentialBuilder;
 import com.azure.resourcemanager.AzureResourceManager;
 import com.azure.core.management.AzureEnvironment;
 import com.azure.core.management.profile.AzureProfile;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(AzureHttpProperties.class)
 public class AzureConfig {
 
     @Value("${azure.tenant-id}")
@@ -26,31 +35,90 @@ public class AzureConfig {
     @Value("${azure.subscription-id}")
     private String subscriptionId;
 
+    /**
+     * Azure 호출 공용 연결 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider azureConnectionProvider(AzureHttpProperties httpProperties) {
+        return ConnectionProvider.builder("azure")
+                .maxConnections(httpProperties.getMaxConnections())
+                .pendingAcquireTimeout(httpProperties.getPendingAcquireTimeout())
+                .maxIdleTime(httpProperties.getMaxIdleTime())
+                .maxLifeTime(httpProperties.getMaxLifeTime())
+                .evictInBackground(httpProperties.getMaxIdleTime())
+                .build();
+    }
+
+    /**
+     * Azure 호출 공용 HTTP 클라이언트 (자격 증명, 리소스 매니저가 함께 사용)
+     */
     @Bean
-    public AzureResourceManager azureResourceManager() {
+    public HttpClient azureHttpClient(ConnectionProvider azureConnectionProvider,
+                                      AzureHttpProperties httpProperties) {
+        reactor.netty.http.client.HttpClient nettyClient = reactor.netty.http.client.HttpClient
+                .create(azureConnectionProvider)
+                .httpResponseDecoder(spec -> spec.maxHeaderSize(httpProperties.getMaxHeaderSize()));
+
+        if (httpProperties.isHttp2Enabled()) {
+            log.warn("azure.http.http2-enabled=true - HTTP/2 연결에는 요청 단위 write/response/read 타임아웃이 "
+                    + "적용되지 않습니다. 작업 단위 타임아웃(lookup-timeout, power-action-timeout)만 유효합니다.");
+            nettyClient = nettyClient
+                    .protocol(HttpProtocol.HTTP11, HttpProtocol.H2)
+                    .http2Settings(spec -> spec.maxHeaderListSize(httpProperties.getMaxHeaderSize()));
+        }
+
+        log.info("Azure HTTP 클라이언트 생성 - 최대 연결 수: {}, HTTP/2: {}",
+                httpProperties.getMaxConnections(), httpProperties.isHttp2Enabled());
+
+        return new NettyAsyncHttpClientBuilder(nettyClient)
+                .connectTimeout(httpProperties.getConnectTimeout())
+                .writeTimeout(httpProperties.getWriteTimeout())
+                .responseTimeout(httpProperties.getResponseTimeout())
+                .readTimeout(httpProperties.getReadTimeout())
+                .build();
+    }
+
+    /**
+     * 자격 증명 - 하나의 인스턴스를 공유해 발급받은 토큰을 매니저 간에 재사용
+     */
+    @Bean
+    public TokenCredential azureCredential(HttpClient azureHttpClient) {
+        return new ClientSecretCredentialBuilder()
+                .tenantId(tenantId)
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .httpClient(azureHttpClient)
+                .build();
+    }
+
+    @Bean
+    public AzureResourceManager azureResourceManager(TokenCredential azureCredential,
+                                                     HttpClient azureHttpClient,
+                                                     AzureHttpProperties httpProperties) {
         log.info("Azure 연결 초기화 중...");
         log.info("Tenant ID: {}", tenantId);
         log.info("Subscription ID: {}", subscriptionId);
 
         try {
-            // 1. 자격 증명 생성
-            TokenCredential credential = new ClientSecretCredentialBuilder()
-                    .tenantId(tenantId)
-                    .clientId(clientId)
-                    .clientSecret(clientSecret)
-                    .build();
-
-            // 2. Azure Profile 생성
+            // 1. Azure Profile 생성
             AzureProfile profile = new AzureProfile(
                     tenantId,
                     subscriptionId,
                     AzureEnvironment.AZURE
             );
 
-            // 3. Azure Resource Manager 생성 (올바른 방식)
+            // 2. 재시도 정책 (SDK 지수 백오프 - 지터 포함, 설정값으로 조정)
+            RetryPolicy retryPolicy = new RetryPolicy(new ExponentialBackoff(new ExponentialBackoffOptions()
+                    .setMaxRetries(httpProperties.getMaxRetries())
+                    .setBaseDelay(httpProperties.getRetryBaseDelay())
+                    .setMaxDelay(httpProperties.getRetryMaxDelay())));
+
+            // 3. 공용 HTTP 클라이언트와 자격 증명으로 Azure Resource Manager 생성
             AzureResourceManager manager = AzureResourceManager
                     .configure()
-                    .authenticate(credential, profile)
+                    .withHttpClient(azureHttpClient)
+                    .withRetryPolicy(retryPolicy)
+                    .authenticate(azureCredential, profile)
                     .withDefaultSubscription();
 
             log.info("Azure 연결 성공!");
@@ -61,4 +129,4 @@ public class AzureConfig {
             throw new RuntimeException("Azure 초기화 실패", e);
         }
     }
-}
\ No newline at end of file
+}
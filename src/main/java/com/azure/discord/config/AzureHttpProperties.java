@@ -0,0 +1,45 @@
+package com.azure.discord.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Azure HTTP 클라이언트 설정 (azure.http.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "azure.http")
+public class AzureHttpProperties {
+
+    // 연결 풀
+    private int maxConnections = 50;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+    private Duration maxIdleTime = Duration.ofSeconds(60);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    // ARM 응답 헤더가 Netty 기본값(8KB)보다 큰 경우가 있어 여유 있게 설정
+    private int maxHeaderSize = 64 * 1024;
+
+    // ALPN으로 HTTP/2 협상 (미지원 시 HTTP/1.1 사용)
+    // 주의: Netty 클라이언트의 요청 단위 타임아웃(write/response/read)은 HTTP/1.1에만 적용되므로
+    // 켜면 해당 타임아웃이 꺼지고 작업 단위 타임아웃만 남는다.
+    private boolean http2Enabled = false;
+
+    // 요청 단위 타임아웃
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration writeTimeout = Duration.ofSeconds(30);
+    private Duration responseTimeout = Duration.ofSeconds(30);
+    private Duration readTimeout = Duration.ofSeconds(30);
+
+    // 작업 단위 타임아웃
+    private Duration lookupTimeout = Duration.ofSeconds(30);
+    private Duration powerActionTimeout = Duration.ofMinutes(5);
+
+    // 재시도 (기본값은 SDK ExponentialBackoff 기본값과 동일)
+    private int maxRetries = 3;
+    private Duration retryBaseDelay = Duration.ofMillis(800);
+    private Duration retryMaxDelay = Duration.ofSeconds(8);
+}
@@ -0,0 +1,233 @@
+package com.azure.discord.controller;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.discord.dto.AzureErrorResponse;
+import com.azure.discord.dto.AzureErrorType;
+import com.azure.discord.dto.CostSummary;
+import com.azure.discord.dto.OperationStatus;
+import com.azure.discord.dto.VMAction;
+import com.azure.discord.dto.VMBatchRequest;
+import com.azure.discord.dto.VMInfo;
+import com.azure.discord.dto.VMOperation;
+import com.azure.discord.service.AzureErrorClassifier;
+import com.azure.discord.service.AzureVMService;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class AzureVMController {
+
+    // 작업 최대 소요 시간 이후 미완료 작업을 정리할 여유 시간
+    private static final Duration EMITTER_GRACE = Duration.ofMinutes(1);
+
+    // 일괄 작업 결과 전송 스레드 수
+    private static final int BATCH_WRITER_THREADS = 4;
+
+    private final AzureVMService azureVMService;
+
+    // 느린 클라이언트에 대한 블로킹 쓰기가 Azure 이벤트 루프 스레드를 점유하지 않도록 별도 스레드에서 전송
+    private final ExecutorService batchWriter = Executors.newFixedThreadPool(BATCH_WRITER_THREADS);
+
+    /**
+     * VM 목록 조회
+     */
+    @GetMapping("/vms")
+    public CompletableFuture<List<VMInfo>> listVMs() {
+        return azureVMService.listVMInfosAsync();
+    }
+
+    /**
+     * 예상 비용 조회
+     */
+    @GetMapping("/vms/cost")
+    public CompletableFuture<CostSummary> getCost() {
+        return azureVMService.getCostSummaryAsync();
+    }
+
+    /**
+     * VM 시작
+     */
+    @PostMapping("/vms/{vmName}/start")
+    public CompletableFuture<ResponseEntity<VMOperation>> startVM(@PathVariable String vmName) {
+        return azureVMService.submitOperation(vmName, VMAction.START).thenApply(this::toResponse);
+    }
+
+    /**
+     * VM 중지
+     */
+    @PostMapping("/vms/{vmName}/stop")
+    public CompletableFuture<ResponseEntity<VMOperation>> stopVM(@PathVariable String vmName) {
+        return azureVMService.submitOperation(vmName, VMAction.STOP).thenApply(this::toResponse);
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<VMOperation> getOperation(@PathVariable String operationId) {
+        return azureVMService.getOperation(operationId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 여러 VM 작업 일괄 요청 - VM별로 접수 결과와 최종 결과를 완료되는 순서대로 NDJSON으로 전송
+     * 작업 최대 소요 시간 안에 끝나지 않은 작업은 현재 상태를 한 줄 더 보내고 스트림을 닫는다.
+     */
+    @PostMapping(value = "/vms/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseBodyEmitter batch(@Valid @RequestBody VMBatchRequest request) {
+        Duration deadline = azureVMService.maxOperationDuration();
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(deadline.plus(EMITTER_GRACE).toMillis());
+        emitter.onTimeout(() -> log.warn("일괄 작업 스트림 시간 초과"));
+
+        // 접수됐지만 최종 결과를 아직 보내지 않은 작업
+        Map<String, VMOperation> pending = new ConcurrentHashMap<>();
+
+        CompletableFuture<?>[] results = azureVMService.submitOperations(request.getActions()).stream()
+                .map(accepted -> accepted.thenComposeAsync(operation -> {
+                    if (!operation.getStatus().isTerminal()) {
+                        pending.put(operation.getId(), operation);
+                    }
+                    sendLine(emitter, operation);
+                    if (operation.getStatus().isTerminal()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return azureVMService.awaitOperation(operation.getId())
+                            .exceptionally(error -> operation)
+                            .thenAcceptAsync(result -> {
+                                if (pending.remove(result.getId()) != null) {
+                                    sendLine(emitter, result);
+                                }
+                            }, batchWriter);
+                }, batchWriter))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(results)
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .whenCompleteAsync((ignored, error) -> {
+                    if (error instanceof TimeoutException) {
+                        log.warn("일괄 작업 {}건 미완료, 현재 상태 전송 후 종료", pending.size());
+                        sendPendingLines(emitter, pending);
+                        emitter.complete();
+                    } else if (error != null) {
+                        log.error("일괄 작업 처리 실패: ", error);
+                        emitter.completeWithError(error);
+                    } else {
+                        emitter.complete();
+                    }
+                }, batchWriter);
+
+        return emitter;
+    }
+
+    /**
+     * 미완료 작업의 현재 상태 전송 - 클라이언트는 /api/operations/{id}로 이어서 조회
+     */
+    private void sendPendingLines(ResponseBodyEmitter emitter, Map<String, VMOperation> pending) {
+        for (String operationId : List.copyOf(pending.keySet())) {
+            VMOperation accepted = pending.remove(operationId);
+            if (accepted == null) {
+                continue;
+            }
+            VMOperation current = azureVMService.getOperation(operationId).orElse(accepted);
+            sendLine(emitter, current.toBuilder()
+                    .message(String.format("스트림 시간 초과 - /api/operations/%s 로 상태를 조회하세요.", operationId))
+                    .build());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchWriter.shutdownNow();
+    }
+
+    /**
+     * 작업 상태에 따른 응답 코드 결정
+     */
+    private ResponseEntity<VMOperation> toResponse(VMOperation operation) {
+        if (operation.getStatus() == OperationStatus.NOT_FOUND) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(operation);
+        }
+        if (operation.getStatus() == OperationStatus.IN_PROGRESS) {
+            return ResponseEntity.accepted().body(operation);
+        }
+        if (operation.getStatus() == OperationStatus.FAILED) {
+            return ResponseEntity.status(statusFor(operation.getErrorType())).body(operation);
+        }
+        return ResponseEntity.ok(operation);
+    }
+
+    /**
+     * 목록/비용 조회 등 Azure 호출 실패를 에러 분류와 함께 반환
+     */
+    @ExceptionHandler({TimeoutException.class, HttpResponseException.class, CompletionException.class,
+            ConnectException.class, UnknownHostException.class})
+    public ResponseEntity<AzureErrorResponse> handleAzureError(Exception e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        // 조회 단계 시간 초과 - 변경 작업은 없음
+        AzureErrorType errorType = cause instanceof TimeoutException
+                ? AzureErrorType.LOOKUP_TIMEOUT
+                : AzureErrorClassifier.classify(cause);
+        log.error("Azure 호출 실패 ({}): ", errorType, cause);
+
+        return ResponseEntity.status(statusFor(errorType))
+                .body(AzureErrorResponse.builder()
+                        .errorType(errorType)
+                        .message(cause.getMessage())
+                        .build());
+    }
+
+    /**
+     * 에러 분류에 따른 응답 코드 결정
+     */
+    private HttpStatus statusFor(AzureErrorType errorType) {
+        if (errorType == AzureErrorType.LOOKUP_TIMEOUT) return HttpStatus.GATEWAY_TIMEOUT;
+        if (errorType == AzureErrorType.THROTTLED) return HttpStatus.SERVICE_UNAVAILABLE;
+        return HttpStatus.BAD_GATEWAY;
+    }
+
+    /**
+     * NDJSON 한 줄 전송 - 여러 스레드에서 호출되므로 줄 단위로 동기화
+     */
+    private void sendLine(ResponseBodyEmitter emitter, VMOperation operation) {
+        synchronized (emitter) {
+            try {
+                emitter.send(operation, MediaType.APPLICATION_JSON);
+                emitter.send("\n", MediaType.TEXT_PLAIN);
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료 등 - 남은 작업은 계속 진행
+                log.warn("일괄 작업 결과 전송 실패 ({}): {}", operation.getVmName(), e.getMessage());
+            }
+        }
+    }
+}
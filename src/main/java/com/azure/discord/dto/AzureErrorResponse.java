@@ -0,0 +1,14 @@
+package com.azure.discord.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * REST API 에러 응답
+ */
+@Value
+@Builder
+public class AzureErrorResponse {
+    AzureErrorType errorType;
+    String message;
+}
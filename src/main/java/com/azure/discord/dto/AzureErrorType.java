@@ -0,0 +1,27 @@
+package com.azure.discord.dto;
+
+/**
+ * Azure 호출 에러 분류
+ */
+public enum AzureErrorType {
+    NOT_FOUND,
+    CONFLICT,
+    THROTTLED,
+    AUTHENTICATION,
+    CLIENT_ERROR,
+    SERVER_ERROR,
+    // 연결 실패 - 요청이 전송되지 않음
+    CONNECTION_FAILED,
+    // VM 조회 시간 초과 - 시작/중지 요청은 전송되지 않음
+    LOOKUP_TIMEOUT,
+    // 요청은 전송됐지만 응답을 받지 못함 - 실제 처리 여부를 상태 조회로 확인해야 함
+    UNKNOWN_OUTCOME,
+    UNKNOWN;
+
+    /**
+     * 상태 조회로 결과를 확인해야 하는 에러인지 여부
+     */
+    public boolean requiresStatusCheck() {
+        return this == CONFLICT || this == UNKNOWN_OUTCOME;
+    }
+}
@@ -0,0 +1,17 @@
+package com.azure.discord.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 전체 VM 예상 비용 요약
+ */
+@Value
+@Builder
+public class CostSummary {
+    List<VMCost> vms;
+    double totalMonthlyUsd;
+    long totalMonthlyKrw;
+}
@@ -0,0 +1,19 @@
+package com.azure.discord.dto;
+
+/**
+ * VM 작업 진행 상태
+ */
+public enum OperationStatus {
+    IN_PROGRESS,
+    SUCCEEDED,
+    ALREADY_IN_STATE,
+    NOT_FOUND,
+    FAILED;
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 최종 상태인지 여부
+     */
+    public boolean isTerminal() {
+        return this != IN_PROGRESS;
+    }
+}
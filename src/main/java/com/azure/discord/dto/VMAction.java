@@ -0,0 +1,9 @@
+package com.azure.discord.dto;
+
+/**
+ * VM 작업 종류
+ */
+public enum VMAction {
+    START,
+    STOP
+}
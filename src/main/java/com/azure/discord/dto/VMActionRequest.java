@@ -0,0 +1,22 @@
+package com.azure.discord.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 작업 요청의 개별 VM 작업
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VMActionRequest {
+
+    @NotBlank
+    private String vmName;
+
+    @NotNull
+    private VMAction action;
+}
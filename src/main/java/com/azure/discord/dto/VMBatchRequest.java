@@ -0,0 +1,43 @@
+package com.azure.discord.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 여러 VM 작업을 한 번에 요청
+ */
+@Data
+@NoArgsConstructor
+public class VMBatchRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 50)
+    private List<VMActionRequest> actions;
+
+    /**
+     * 같은 VM에 상반된 작업이 동시에 요청되지 않도록 VM 이름 중복 금지 (대소문자 무시)
+     */
+    @JsonIgnore
+    @AssertTrue(message = "같은 VM을 한 요청에 여러 번 지정할 수 없습니다.")
+    public boolean isVmNamesUnique() {
+        if (actions == null) {
+            return true;
+        }
+        List<String> names = actions.stream()
+                .filter(Objects::nonNull)
+                .map(VMActionRequest::getVmName)
+                .filter(Objects::nonNull)
+                .map(String::toLowerCase)
+                .toList();
+        return names.stream().distinct().count() == names.size();
+    }
+}
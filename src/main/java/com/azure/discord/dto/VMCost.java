@@ -0,0 +1,17 @@
+package com.azure.discord.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * VM별 예상 비용
+ */
+@Value
+@Builder
+public class VMCost {
+    String name;
+    String size;
+    boolean running;
+    double hourlyRate;
+    double monthlyEstimate;
+}
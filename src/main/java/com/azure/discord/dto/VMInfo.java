@@ -0,0 +1,17 @@
+package com.azure.discord.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * VM 목록 조회 결과
+ */
+@Value
+@Builder
+public class VMInfo {
+    String name;
+    String resourceGroup;
+    String region;
+    String size;
+    String powerState;
+}
@@ -0,0 +1,22 @@
+package com.azure.discord.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * VM 시작/중지 작업 상태 스냅샷
+ */
+@Value
+@Builder(toBuilder = true)
+public class VMOperation {
+    String id;
+    String vmName;
+    VMAction action;
+    OperationStatus status;
+    String message;
+    AzureErrorType errorType;
+    Instant requestedAt;
+    Instant completedAt;
+}
@@ -0,0 +1,68 @@
+package com.azure.discord.service;
+
+import com.azure.core.exception.ClientAuthenticationException;
+import com.azure.core.exception.HttpResponseException;
+import com.azure.discord.dto.AzureErrorType;
+import io.netty.handler.codec.TooLongFrameException;
+import reactor.netty.http.client.PrematureCloseException;
+
+import javax.net.ssl.SSLException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Azure 호출 예외를 에러 분류로 변환
+ */
+public final class AzureErrorClassifier {
+
+    private static final int MAX_CAUSE_DEPTH = 10;
+
+    private AzureErrorClassifier() {
+    }
+
+    /**
+     * 예외(원인 포함)를 에러 분류로 변환
+     */
+    public static AzureErrorType classify(Throwable error) {
+        Throwable cause = error;
+        for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++, cause = cause.getCause()) {
+            if (cause instanceof ClientAuthenticationException) {
+                return AzureErrorType.AUTHENTICATION;
+            }
+            // ManagementException 포함
+            if (cause instanceof HttpResponseException responseException
+                    && responseException.getResponse() != null) {
+                return fromStatusCode(responseException.getResponse().getStatusCode());
+            }
+            // 연결 자체가 안 됨 - 요청이 전송되지 않았으므로 상태 확인 불필요
+            if (cause instanceof ConnectException
+                    || cause instanceof UnknownHostException
+                    || cause instanceof NoRouteToHostException
+                    || cause instanceof SSLException) {
+                return AzureErrorType.CONNECTION_FAILED;
+            }
+            // 요청 전송 후 응답 헤더 파싱 실패, 응답 중 연결 끊김, 타임아웃
+            if (cause instanceof TooLongFrameException
+                    || cause instanceof PrematureCloseException
+                    || cause instanceof TimeoutException) {
+                return AzureErrorType.UNKNOWN_OUTCOME;
+            }
+        }
+        return AzureErrorType.UNKNOWN;
+    }
+
+    /**
+     * HTTP 상태 코드를 에러 분류로 변환
+     */
+    public static AzureErrorType fromStatusCode(int statusCode) {
+        if (statusCode == 401 || statusCode == 403) return AzureErrorType.AUTHENTICATION;
+        if (statusCode == 404) return AzureErrorType.NOT_FOUND;
+        if (statusCode == 409) return AzureErrorType.CONFLICT;
+        if (statusCode == 429) return AzureErrorType.THROTTLED;
+        if (statusCode >= 500) return AzureErrorType.SERVER_ERROR;
+        if (statusCode >= 400) return AzureErrorType.CLIENT_ERROR;
+        return AzureErrorType.UNKNOWN;
+    }
+}
@@ -1,21 +1,41 @@
 package com.azure.discord.service;
 
+import com.azure.core.management.Region;
+import com.azure.discord.config.AzureHttpProperties;
+import com.azure.discord.dto.AzureErrorType;
+import com.azure.discord.dto.CostSummary;
+import com.azure.discord.dto.OperationStatus;
+import com.azure.discord.dto.VMAction;
+import com.azure.discord.dto.VMActionRequest;
+import com.azure.discord.dto.VMCost;
+import com.azure.discord.dto.VMInfo;
+import com.azure.discord.dto.VMOperation;
 import com.azure.resourcemanager.AzureResourceManager;
 import com.azure.resourcemanager.compute.models.VirtualMachine;
 import com.azure.resourcemanager.compute.models.PowerState;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,14 +43,26 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AzureVMService {
 
+    // 상태 확인 간격 및 최대 횟수
+    private static final Duration STATUS_CHECK_INTERVAL = Duration.ofSeconds(30);
+    private static final int MAX_STATUS_CHECKS = 10;
+    // 완료된 작업 보관 시간
+    private static final long OPERATION_RETENTION_MINUTES = 60;
+
     private final AzureResourceManager azure;
     private final JDA jda;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final AzureHttpProperties httpProperties;
+    // 완료된 작업 정리용
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
 
     // 알림 설정 저장
     private final Map<String, Boolean> notificationSettings = new ConcurrentHashMap<>();
     private final Map<String, String> userChannels = new ConcurrentHashMap<>();
 
+    // 작업 상태 저장
+    private final Map<String, VMOperation> operations = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<VMOperation>> completions = new ConcurrentHashMap<>();
+
     /**
      * VM 시작
      */
@@ -38,16 +70,16 @@ public class AzureVMService {
         try {
             log.info("VM 시작 요청: {}", vmName);
 
-            VirtualMachine vm = findVMByName(vmName);
-            if (vm == null) {
+            VMOperation operation = submitOperation(vmName, VMAction.START).join();
+            if (operation.getStatus() == OperationStatus.NOT_FOUND) {
                 return String.format("❌ VM을 찾을 수 없습니다: %s", vmName);
             }
-
-            // 이미 실행 중인지 확인
-            PowerState currentState = vm.powerState();
-            if (currentState == PowerState.RUNNING) {
+            if (operation.getStatus() == OperationStatus.ALREADY_IN_STATE) {
                 return String.format("ℹ️ VM '%s'은(는) 이미 실행 중입니다.", vmName);
             }
+            if (operation.getStatus() == OperationStatus.FAILED) {
+                return String.format("❌ VM 시작 실패: %s", operation.getMessage());
+            }
 
             // 채널 정보 저장
             userChannels.put(userId, channelId);
@@ -56,44 +88,9 @@ public class AzureVMService {
             boolean notifyEnabled = notificationSettings.getOrDefault(userId, false);
             log.info("사용자 {} 알림 설정 상태: {}", userId, notifyEnabled);
 
-            // 별도 스레드에서 VM 시작 처리
-            CompletableFuture.runAsync(() -> {
-                try {
-                    log.info("VM {} 시작 중...", vmName);
-                    vm.start();  // 동기식으로 처리
-                    log.info("VM {} 시작 명령 전송 완료", vmName);
-
-                    // 성공 시 즉시 알림
-                    if (notifyEnabled) {
-                        sendNotification(channelId,
-                                String.format("✅ **VM 시작 완료!**\n" +
-                                        "VM '%s'이(가) 성공적으로 시작되었습니다.", vmName));
-                    }
-                } catch (Exception e) {
-                    log.error("VM 시작 중 에러 발생: ", e);
-
-                    // 에러 타입에 따른 처리
-                    String errorMsg = e.getMessage();
-                    if (errorMsg != null) {
-                        if (errorMsg.contains("Conflict") || errorMsg.contains("409")) {
-                            // 409 Conflict - 이미 처리 중
-                            log.info("VM {} 이미 시작 처리 중", vmName);
-                            scheduleStatusCheck(vmName, channelId, userId, true, notifyEnabled);
-                        } else if (errorMsg.contains("HTTP header")) {
-                            // HTTP 헤더 에러 - 실제로는 작동할 가능성이 높음
-                            log.info("HTTP 헤더 에러 발생, 상태 확인 예약");
-                            scheduleStatusCheck(vmName, channelId, userId, true, notifyEnabled);
-                        } else {
-                            // 다른 에러
-                            if (notifyEnabled) {
-                                sendNotification(channelId,
-                                        String.format("❌ VM '%s' 시작 중 오류가 발생했습니다.\n%s",
-                                                vmName, errorMsg));
-                            }
-                        }
-                    }
-                }
-            });
+            if (notifyEnabled) {
+                notifyOnCompletion(operation, channelId);
+            }
 
             return String.format("⏳ **VM 시작 중...**\n\n" +
                             "VM '%s'을(를) 시작하고 있습니다. (약 1-2분 소요)\n" +
@@ -104,7 +101,7 @@ public class AzureVMService {
 
         } catch (Exception e) {
             log.error("VM 시작 실패: ", e);
-            return String.format("❌ VM 시작 실패: %s", e.getMessage());
+            return String.format("❌ VM 시작 실패: %s", errorMessage(e));
         }
     }
 
@@ -115,16 +112,16 @@ public class AzureVMService {
         try {
             log.info("VM 중지 요청: {}", vmName);
 
-            VirtualMachine vm = findVMByName(vmName);
-            if (vm == null) {
+            VMOperation operation = submitOperation(vmName, VMAction.STOP).join();
+            if (operation.getStatus() == OperationStatus.NOT_FOUND) {
                 return String.format("❌ VM을 찾을 수 없습니다: %s", vmName);
             }
-
-            // 이미 중지된 상태인지 확인
-            PowerState currentState = vm.powerState();
-            if (currentState == PowerState.DEALLOCATED || currentState == PowerState.STOPPED) {
+            if (operation.getStatus() == OperationStatus.ALREADY_IN_STATE) {
                 return String.format("ℹ️ VM '%s'은(는) 이미 중지되어 있습니다.", vmName);
             }
+            if (operation.getStatus() == OperationStatus.FAILED) {
+                return String.format("❌ VM 중지 실패: %s", operation.getMessage());
+            }
 
             // 채널 정보 저장
             userChannels.put(userId, channelId);
@@ -133,40 +130,9 @@ public class AzureVMService {
             boolean notifyEnabled = notificationSettings.getOrDefault(userId, false);
             log.info("사용자 {} 알림 설정 상태: {}", userId, notifyEnabled);
 
-            // 별도 스레드에서 VM 중지 처리
-            CompletableFuture.runAsync(() -> {
-                try {
-                    log.info("VM {} 중지 중...", vmName);
-                    vm.deallocate();  // 동기식으로 처리
-                    log.info("VM {} 중지 명령 전송 완료", vmName);
-
-                    // 성공 시 즉시 알림
-                    if (notifyEnabled) {
-                        sendNotification(channelId,
-                                String.format("🛑 **VM 중지 완료!**\n" +
-                                        "VM '%s'이(가) 성공적으로 중지되었습니다.\n" +
-                                        "💰 비용이 절약됩니다!", vmName));
-                    }
-                } catch (Exception e) {
-                    log.error("VM 중지 중 에러 발생: ", e);
-
-                    // 에러 타입에 따른 처리
-                    String errorMsg = e.getMessage();
-                    if (errorMsg != null &&
-                            (errorMsg.contains("HTTP header") || errorMsg.contains("Conflict"))) {
-                        // HTTP 헤더 에러 또는 Conflict - 상태 확인 예약
-                        log.info("에러 발생, 상태 확인 예약");
-                        scheduleStatusCheck(vmName, channelId, userId, false, notifyEnabled);
-                    } else {
-                        // 다른 에러
-                        if (notifyEnabled) {
-                            sendNotification(channelId,
-                                    String.format("❌ VM '%s' 중지 중 오류가 발생했습니다.\n%s",
-                                            vmName, errorMsg));
-                        }
-                    }
-                }
-            });
+            if (notifyEnabled) {
+                notifyOnCompletion(operation, channelId);
+            }
 
             return String.format("⏳ **VM 중지 중...**\n\n" +
                             "VM '%s'을(를) 중지하고 있습니다. (약 1-2분 소요)\n" +
@@ -177,43 +143,321 @@ public class AzureVMService {
 
         } catch (Exception e) {
             log.error("VM 중지 실패: ", e);
-            return String.format("❌ VM 중지 실패: %s", e.getMessage());
+            return String.format("❌ VM 중지 실패: %s", errorMessage(e));
         }
     }
 
     /**
-     * VM 상태 확인 스케줄링
+     * VM 작업 요청 (Discord 명령어와 REST API 공용)
+     * 반환된 Future는 작업이 접수되면 완료되며, 최종 결과는 awaitOperation으로 확인한다.
      */
-    private void scheduleStatusCheck(String vmName, String channelId, String userId,
-                                     boolean isStart, boolean notifyEnabled) {
-        scheduler.schedule(() -> {
-            try {
-                log.info("VM {} 상태 확인 중...", vmName);
-                VirtualMachine vm = findVMByName(vmName);
-                if (vm != null) {
-                    PowerState state = vm.powerState();
-                    log.info("VM {} 현재 상태: {}", vmName, state);
-
-                    if (notifyEnabled) {
-                        if (isStart && state == PowerState.RUNNING) {
-                            sendNotification(channelId,
-                                    String.format("✅ **VM 시작 완료!**\n" +
-                                            "VM '%s'이(가) 성공적으로 시작되었습니다.", vmName));
-                        } else if (!isStart && state == PowerState.DEALLOCATED) {
-                            sendNotification(channelId,
-                                    String.format("🛑 **VM 중지 완료!**\n" +
-                                            "VM '%s'이(가) 성공적으로 중지되었습니다.", vmName));
-                        } else {
-                            // 아직 처리 중이면 다시 확인
-                            log.info("VM {} 아직 처리 중, 재확인 예약", vmName);
-                            scheduleStatusCheck(vmName, channelId, userId, isStart, notifyEnabled);
-                        }
-                    }
+    public CompletableFuture<VMOperation> submitOperation(String vmName, VMAction action) {
+        return beginOperation(findVMByNameAsync(vmName), vmName, action).toFuture();
+    }
+
+    /**
+     * 여러 VM 작업 일괄 요청 - VM 목록은 한 번만 조회하고 VM별로 독립적으로 요청한다.
+     * 반환 목록의 각 Future는 해당 VM 작업이 접수되는 즉시 완료된다.
+     */
+    public List<CompletableFuture<VMOperation>> submitOperations(List<VMActionRequest> requests) {
+        Mono<Map<String, VirtualMachine>> vmsByName = azure.virtualMachines()
+                .listAsync()
+                .collectMap(vm -> vm.name().toLowerCase(), vm -> vm)
+                .cache();
+
+        return requests.stream()
+                .map(request -> beginOperation(
+                        vmsByName.flatMap(vms -> Mono.justOrEmpty(vms.get(request.getVmName().toLowerCase()))),
+                        request.getVmName(),
+                        request.getAction()).toFuture())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 작업 하나가 최종 상태가 되기까지 걸릴 수 있는 최대 시간
+     * (조회 + 시작/중지 요청 + 상태 확인 재시도)
+     */
+    public Duration maxOperationDuration() {
+        Duration lookupTimeout = httpProperties.getLookupTimeout();
+        return lookupTimeout.multipliedBy(2)
+                .plus(httpProperties.getPowerActionTimeout())
+                .plus(STATUS_CHECK_INTERVAL.plus(lookupTimeout).multipliedBy(MAX_STATUS_CHECKS));
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<VMOperation> getOperation(String operationId) {
+        return Optional.ofNullable(operations.get(operationId));
+    }
+
+    /**
+     * 작업이 최종 상태가 될 때 완료되는 Future 반환
+     */
+    public CompletableFuture<VMOperation> awaitOperation(String operationId) {
+        CompletableFuture<VMOperation> completion = completions.get(operationId);
+        if (completion == null) {
+            return CompletableFuture.failedFuture(
+                    new NoSuchElementException("작업을 찾을 수 없습니다: " + operationId));
+        }
+        return completion;
+    }
+
+    /**
+     * VM 조회 후 작업 등록 - 조회 실패나 VM 없음도 작업 결과로 기록
+     * 타임아웃은 조회 단계에만 적용되어, 시간 초과 시 시작/중지 요청은 전송되지 않는다.
+     */
+    private Mono<VMOperation> beginOperation(Mono<VirtualMachine> lookup, String vmName, VMAction action) {
+        Duration lookupTimeout = httpProperties.getLookupTimeout();
+        return lookup
+                .timeout(lookupTimeout)
+                .flatMap(vm -> vm.refreshInstanceViewAsync()
+                        .timeout(lookupTimeout)
+                        .map(instanceView -> dispatchOperation(
+                                vm, PowerState.fromInstanceView(instanceView), vmName, action)))
+                .switchIfEmpty(Mono.fromSupplier(() -> completeOperation(
+                        registerOperation(vmName, action), OperationStatus.NOT_FOUND,
+                        String.format("VM을 찾을 수 없습니다: %s", vmName))))
+                .onErrorResume(error -> {
+                    log.error("VM {} 요청 실패: ", actionKorean(action), error);
+                    // 조회 단계 시간 초과는 시작/중지 요청 전이므로 결과 불확실(UNKNOWN_OUTCOME)이 아님
+                    AzureErrorType errorType = error instanceof TimeoutException
+                            ? AzureErrorType.LOOKUP_TIMEOUT
+                            : AzureErrorClassifier.classify(error);
+                    return Mono.just(completeOperation(
+                            registerOperation(vmName, action), OperationStatus.FAILED,
+                            errorType, errorMessage(error)));
+                });
+    }
+
+    /**
+     * 작업 등록
+     */
+    private VMOperation registerOperation(String vmName, VMAction action) {
+        VMOperation operation = VMOperation.builder()
+                .id(UUID.randomUUID().toString())
+                .vmName(vmName)
+                .action(action)
+                .status(OperationStatus.IN_PROGRESS)
+                .requestedAt(Instant.now())
+                .build();
+        operations.put(operation.getId(), operation);
+        completions.put(operation.getId(), new CompletableFuture<>());
+        return operation;
+    }
+
+    /**
+     * Azure에 시작/중지 요청 전송
+     */
+    private VMOperation dispatchOperation(VirtualMachine vm, PowerState currentState,
+                                          String vmName, VMAction action) {
+        VMOperation operation = registerOperation(vmName, action);
+
+        try {
+            // 이미 목표 상태인지 확인
+            if (action == VMAction.START && currentState == PowerState.RUNNING) {
+                return completeOperation(operation, OperationStatus.ALREADY_IN_STATE,
+                        String.format("VM '%s'은(는) 이미 실행 중입니다.", vmName));
+            }
+            if (action == VMAction.STOP
+                    && (currentState == PowerState.DEALLOCATED || currentState == PowerState.STOPPED)) {
+                return completeOperation(operation, OperationStatus.ALREADY_IN_STATE,
+                        String.format("VM '%s'은(는) 이미 중지되어 있습니다.", vmName));
+            }
+
+            // 비동기 API로 요청 - 완료될 때까지 스레드를 점유하지 않음
+            // 시간 초과 시에도 Azure에서는 작업이 계속될 수 있으므로 상태 확인으로 넘어감
+            log.info("VM {} {} 중...", vmName, actionKorean(action));
+            CompletableFuture<Void> request = (action == VMAction.START ? vm.startAsync() : vm.deallocateAsync())
+                    .timeout(httpProperties.getPowerActionTimeout())
+                    .toFuture();
+
+            request.whenComplete((ignored, error) -> {
+                if (error == null) {
+                    log.info("VM {} {} 완료", vmName, actionKorean(action));
+                    completeOperation(operation, OperationStatus.SUCCEEDED,
+                            String.format("VM '%s' %s 완료", vmName, actionKorean(action)));
+                } else {
+                    handleOperationError(operation, vm, unwrap(error));
                 }
-            } catch (Exception e) {
-                log.error("상태 확인 중 에러: ", e);
+            });
+            return operation;
+
+        } catch (Exception e) {
+            log.error("VM {} 요청 실패: ", actionKorean(action), e);
+            return completeOperation(operation, OperationStatus.FAILED,
+                    AzureErrorClassifier.classify(e), errorMessage(e));
+        }
+    }
+
+    /**
+     * 작업 에러 처리
+     */
+    private void handleOperationError(VMOperation operation, VirtualMachine vm, Throwable error) {
+        AzureErrorType errorType = AzureErrorClassifier.classify(error);
+        log.error("VM {} 중 에러 발생 ({}): ", actionKorean(operation.getAction()), errorType, error);
+
+        // 409 Conflict(이미 처리 중) 또는 응답 확인 불가 - 실제 상태를 확인해 결과 판단
+        if (errorType.requiresStatusCheck()) {
+            log.info("VM {} 처리 결과 불확실, 상태 확인 예약", operation.getVmName());
+            scheduleStatusCheck(operation, vm, 1);
+        } else if (errorType == AzureErrorType.NOT_FOUND) {
+            // 조회 이후 VM이 삭제된 경우
+            completeOperation(operation, OperationStatus.NOT_FOUND, errorType,
+                    String.format("VM을 찾을 수 없습니다: %s", operation.getVmName()));
+        } else {
+            completeOperation(operation, OperationStatus.FAILED, errorType, errorMessage(error));
+        }
+    }
+
+    /**
+     * VM 상태 확인 스케줄링 - 이미 조회한 VM의 인스턴스 뷰만 비동기로 다시 조회
+     */
+    private void scheduleStatusCheck(VMOperation operation, VirtualMachine vm, int attempt) {
+        String vmName = operation.getVmName();
+        Mono.delay(STATUS_CHECK_INTERVAL)
+                .then(Mono.defer(() -> vm.refreshInstanceViewAsync().timeout(httpProperties.getLookupTimeout())))
+                .map(PowerState::fromInstanceView)
+                .subscribe(state -> {
+                    log.info("VM {} 현재 상태: {} ({}/{})", vmName, state, attempt, MAX_STATUS_CHECKS);
+
+                    boolean isStart = operation.getAction() == VMAction.START;
+                    if ((isStart && state == PowerState.RUNNING)
+                            || (!isStart && state == PowerState.DEALLOCATED)) {
+                        completeOperation(operation, OperationStatus.SUCCEEDED,
+                                String.format("VM '%s' %s 완료", vmName, actionKorean(operation.getAction())));
+                    } else if (attempt >= MAX_STATUS_CHECKS) {
+                        completeOperation(operation, OperationStatus.FAILED,
+                                String.format("VM '%s' 상태 확인 시간 초과 (현재 상태: %s)", vmName, state));
+                    } else {
+                        // 아직 처리 중이면 다시 확인
+                        log.info("VM {} 아직 처리 중, 재확인 예약", vmName);
+                        scheduleStatusCheck(operation, vm, attempt + 1);
+                    }
+                }, error -> {
+                    AzureErrorType errorType = AzureErrorClassifier.classify(error);
+                    log.error("상태 확인 중 에러 ({}): ", errorType, error);
+                    if (errorType == AzureErrorType.NOT_FOUND) {
+                        // 작업 도중 VM이 삭제된 경우
+                        completeOperation(operation, OperationStatus.NOT_FOUND, errorType,
+                                String.format("VM을 찾을 수 없습니다: %s", vmName));
+                    } else if (attempt >= MAX_STATUS_CHECKS) {
+                        completeOperation(operation, OperationStatus.FAILED, errorType, errorMessage(error));
+                    } else {
+                        scheduleStatusCheck(operation, vm, attempt + 1);
+                    }
+                });
+    }
+
+    /**
+     * 작업을 최종 상태로 변경하고 대기 중인 Future 완료
+     */
+    private VMOperation completeOperation(VMOperation operation, OperationStatus status, String message) {
+        return completeOperation(operation, status, null, message);
+    }
+
+    private VMOperation completeOperation(VMOperation operation, OperationStatus status,
+                                          AzureErrorType errorType, String message) {
+        VMOperation completed = operation.toBuilder()
+                .status(status)
+                .errorType(errorType)
+                .message(message)
+                .completedAt(Instant.now())
+                .build();
+        operations.put(completed.getId(), completed);
+
+        CompletableFuture<VMOperation> completion = completions.get(completed.getId());
+        if (completion != null) {
+            completion.complete(completed);
+        }
+
+        // 완료된 작업은 일정 시간 후 정리
+        scheduler.schedule(() -> {
+            operations.remove(completed.getId());
+            completions.remove(completed.getId());
+        }, OPERATION_RETENTION_MINUTES, TimeUnit.MINUTES);
+
+        return completed;
+    }
+
+    /**
+     * 작업 완료 시 Discord 알림 전송
+     */
+    private void notifyOnCompletion(VMOperation operation, String channelId) {
+        awaitOperation(operation.getId()).thenAccept(result -> {
+            boolean isStart = result.getAction() == VMAction.START;
+            if (result.getStatus() == OperationStatus.SUCCEEDED) {
+                sendNotification(channelId, isStart ?
+                        String.format("✅ **VM 시작 완료!**\n" +
+                                "VM '%s'이(가) 성공적으로 시작되었습니다.", result.getVmName()) :
+                        String.format("🛑 **VM 중지 완료!**\n" +
+                                "VM '%s'이(가) 성공적으로 중지되었습니다.\n" +
+                                "💰 비용이 절약됩니다!", result.getVmName()));
+            } else if (result.getStatus() == OperationStatus.FAILED) {
+                sendNotification(channelId,
+                        String.format("❌ VM '%s' %s 중 오류가 발생했습니다.\n%s",
+                                result.getVmName(), actionKorean(result.getAction()), result.getMessage()));
             }
-        }, 30, TimeUnit.SECONDS);
+        });
+    }
+
+    /**
+     * VM 목록 조회 (REST API용) - VM별 인스턴스 뷰를 병렬로 조회
+     */
+    public CompletableFuture<List<VMInfo>> listVMInfosAsync() {
+        return azure.virtualMachines()
+                .listAsync()
+                .flatMapSequential(vm -> vm.refreshInstanceViewAsync()
+                        .map(instanceView -> VMInfo.builder()
+                                .name(vm.name())
+                                .resourceGroup(vm.resourceGroupName())
+                                .region(vm.region().name())
+                                .size(vm.size().toString())
+                                .powerState(String.valueOf(PowerState.fromInstanceView(instanceView)))
+                                .build()))
+                .collectList()
+                .timeout(httpProperties.getLookupTimeout())
+                .toFuture();
+    }
+
+    /**
+     * 예상 비용 요약 조회 - VM별 인스턴스 뷰를 병렬로 조회
+     */
+    public CompletableFuture<CostSummary> getCostSummaryAsync() {
+        return azure.virtualMachines()
+                .listAsync()
+                .flatMapSequential(vm -> vm.refreshInstanceViewAsync()
+                        .map(instanceView -> {
+                            double hourlyRate = getHourlyRate(vm.size().toString());
+                            return VMCost.builder()
+                                    .name(vm.name())
+                                    .size(vm.size().toString())
+                                    .running(PowerState.fromInstanceView(instanceView) == PowerState.RUNNING)
+                                    .hourlyRate(hourlyRate)
+                                    .monthlyEstimate(hourlyRate * 24 * 30)
+                                    .build();
+                        }))
+                .collectList()
+                .timeout(httpProperties.getLookupTimeout())
+                .map(this::toCostSummary)
+                .toFuture();
+    }
+
+    /**
+     * 예상 비용 요약 계산
+     */
+    private CostSummary toCostSummary(List<VMCost> costs) {
+        // 중지된 VM은 비용 계산에서 제외
+        double totalMonthly = costs.stream()
+                .filter(VMCost::isRunning)
+                .mapToDouble(VMCost::getMonthlyEstimate)
+                .sum();
+
+        return CostSummary.builder()
+                .vms(costs)
+                .totalMonthlyUsd(totalMonthly)
+                .totalMonthlyKrw((long) (totalMonthly * 1300))
+                .build();
     }
 
     /**
@@ -223,43 +467,33 @@ public class AzureVMService {
         try {
             log.info("비용 조회 중...");
 
-            List<VirtualMachine> vms = azure.virtualMachines()
-                    .list()
-                    .stream()
-                    .collect(Collectors.toList());
-
-            if (vms.isEmpty()) {
+            CostSummary summary = getCostSummaryAsync().join();
+            if (summary.getVms().isEmpty()) {
                 return "💰 현재 생성된 VM이 없습니다.";
             }
 
             StringBuilder cost = new StringBuilder("💰 **예상 VM 비용**\n\n");
-            double totalMonthly = 0;
-
-            for (VirtualMachine vm : vms) {
-                double hourlyRate = getHourlyRate(vm.size().toString());
-                double monthly = hourlyRate * 24 * 30;
 
-                // 중지된 VM은 비용 계산에서 제외
-                if (vm.powerState() != PowerState.RUNNING) {
-                    cost.append(String.format("**%s** (%s) - 🔴 중지됨\n", vm.name(), vm.size()));
+            for (VMCost vm : summary.getVms()) {
+                if (!vm.isRunning()) {
+                    cost.append(String.format("**%s** (%s) - 🔴 중지됨\n", vm.getName(), vm.getSize()));
                     cost.append("   • 비용 발생 없음\n\n");
                 } else {
-                    totalMonthly += monthly;
-                    cost.append(String.format("**%s** (%s) - 🟢 실행 중\n", vm.name(), vm.size()));
-                    cost.append(String.format("   • 시간당: $%.2f\n", hourlyRate));
-                    cost.append(String.format("   • 월 예상: $%.2f\n\n", monthly));
+                    cost.append(String.format("**%s** (%s) - 🟢 실행 중\n", vm.getName(), vm.getSize()));
+                    cost.append(String.format("   • 시간당: $%.2f\n", vm.getHourlyRate()));
+                    cost.append(String.format("   • 월 예상: $%.2f\n\n", vm.getMonthlyEstimate()));
                 }
             }
 
-            cost.append(String.format("📊 **총 월 예상 비용: $%.2f**\n", totalMonthly));
-            cost.append(String.format("   (한화 약 %,d원)\n\n", (int)(totalMonthly * 1300)));
+            cost.append(String.format("📊 **총 월 예상 비용: $%.2f**\n", summary.getTotalMonthlyUsd()));
+            cost.append(String.format("   (한화 약 %,d원)\n\n", summary.getTotalMonthlyKrw()));
             cost.append("💡 **절약 팁**: 사용하지 않는 VM은 중지하세요!");
 
             return cost.toString();
 
         } catch (Exception e) {
             log.error("비용 조회 실패: ", e);
-            return "❌ 비용 조회 실패: " + e.getMessage();
+            return "❌ 비용 조회 실패: " + unwrap(e).getMessage();
         }
     }
 
@@ -270,30 +504,27 @@ public class AzureVMService {
         try {
             log.info("VM 목록 조회 중...");
 
-            List<VirtualMachine> vms = azure.virtualMachines()
-                    .list()
-                    .stream()
-                    .collect(Collectors.toList());
+            List<VMInfo> vms = listVMInfosAsync().join();
 
             if (vms.isEmpty()) {
                 return "📋 현재 생성된 VM이 없습니다.";
             }
 
             StringBuilder sb = new StringBuilder("📋 **Azure VM 목록**\n\n");
-            for (VirtualMachine vm : vms) {
-                String status = getStatusEmoji(vm.powerState());
-                sb.append(String.format("%s **%s**\n", status, vm.name()));
-                sb.append(String.format("   • 리소스 그룹: %s\n", vm.resourceGroupName()));
-                sb.append(String.format("   • 위치: %s\n", vm.region().label()));
-                sb.append(String.format("   • 크기: %s\n", vm.size()));
-                sb.append(String.format("   • 상태: %s\n\n", getPowerStateKorean(vm.powerState())));
+            for (VMInfo vm : vms) {
+                PowerState powerState = PowerState.fromString(vm.getPowerState());
+                sb.append(String.format("%s **%s**\n", getStatusEmoji(powerState), vm.getName()));
+                sb.append(String.format("   • 리소스 그룹: %s\n", vm.getResourceGroup()));
+                sb.append(String.format("   • 위치: %s\n", Region.fromName(vm.getRegion()).label()));
+                sb.append(String.format("   • 크기: %s\n", vm.getSize()));
+                sb.append(String.format("   • 상태: %s\n\n", getPowerStateKorean(powerState)));
             }
 
             return sb.toString();
 
         } catch (Exception e) {
             log.error("VM 목록 조회 실패: ", e);
-            return "❌ VM 목록 조회 실패: " + e.getMessage();
+            return "❌ VM 목록 조회 실패: " + errorMessage(e);
         }
     }
 
@@ -306,10 +537,7 @@ public class AzureVMService {
 
             if (vmName == null || vmName.isEmpty()) {
                 // VM 목록 보여주기
-                List<VirtualMachine> vms = azure.virtualMachines()
-                        .list()
-                        .stream()
-                        .collect(Collectors.toList());
+                List<VirtualMachine> vms = listAllVMs();
 
                 if (vms.isEmpty()) {
                     return "📋 로그를 확인할 VM이 없습니다.";
@@ -394,6 +622,26 @@ public class AzureVMService {
         }
     }
 
+    /**
+     * 전체 VM 조회
+     */
+    private List<VirtualMachine> listAllVMs() {
+        return azure.virtualMachines()
+                .list()
+                .stream()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * VM 이름으로 찾기 (비동기)
+     */
+    private Mono<VirtualMachine> findVMByNameAsync(String vmName) {
+        return azure.virtualMachines()
+                .listAsync()
+                .filter(vm -> vm.name().equalsIgnoreCase(vmName))
+                .next();
+    }
+
     /**
      * VM 이름으로 찾기
      */
@@ -443,4 +691,38 @@ public class AzureVMService {
             default -> 0.05;
         };
     }
+
+    /**
+     * 작업 종류 한글 변환
+     */
+    private String actionKorean(VMAction action) {
+        return action == VMAction.START ? "시작" : "중지";
+    }
+
+    /**
+     * 사용자에게 보여줄 에러 메시지
+     */
+    private String errorMessage(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof TimeoutException) {
+            return "Azure 응답 시간 초과";
+        }
+        return String.format("[%s] %s", AzureErrorClassifier.classify(cause), cause.getMessage());
+    }
+
+    /**
+     * CompletionException 등 래핑된 예외에서 원인 추출
+     */
+    private Throwable unwrap(Throwable error) {
+        if ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
 }
\ No newline at end of file
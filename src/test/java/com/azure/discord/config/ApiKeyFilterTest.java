@@ -0,0 +1,60 @@
+package com.azure.discord.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiKeyFilterTest {
+
+    @Test
+    void disabledApiReturnsServiceUnavailable() throws Exception {
+        MockHttpServletResponse response = filter("", null);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void missingKeyReturnsUnauthorized() throws Exception {
+        MockHttpServletResponse response = filter("secret", null);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void wrongKeyReturnsUnauthorized() throws Exception {
+        MockHttpServletResponse response = filter("secret", "wrong");
+
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void matchingKeyPassesThrough() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter("secret", "secret", chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private MockHttpServletResponse filter(String apiKey, String header) throws Exception {
+        return filter(apiKey, header, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse filter(String apiKey, String header, FilterChain chain) throws Exception {
+        ApiKeyFilter filter = new ApiKeyFilter();
+        ReflectionTestUtils.setField(filter, "apiKey", apiKey);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/vms/vm-1/start");
+        if (header != null) {
+            request.addHeader(ApiKeyFilter.HEADER_NAME, header);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
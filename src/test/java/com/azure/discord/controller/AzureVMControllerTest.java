@@ -0,0 +1,321 @@
+package com.azure.discord.controller;
+
+import com.azure.core.exception.ClientAuthenticationException;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.management.exception.ManagementException;
+import com.azure.discord.config.ApiKeyFilter;
+import com.azure.discord.dto.AzureErrorType;
+import com.azure.discord.dto.OperationStatus;
+import com.azure.discord.dto.VMAction;
+import com.azure.discord.dto.VMOperation;
+import com.azure.discord.listener.SlashCommandListener;
+import com.azure.discord.service.AzureVMService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.dv8tion.jda.api.JDA;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AzureVMController.class, properties = "api.key=test-key")
+class AzureVMControllerTest {
+
+    private static final String API_KEY = "test-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private AzureVMService azureVMService;
+
+    // 애플리케이션 클래스의 슬래시 커맨드 등록용
+    @MockitoBean(answers = Answers.RETURNS_DEEP_STUBS)
+    private JDA jda;
+
+    @MockitoBean
+    private SlashCommandListener slashCommandListener;
+
+    @BeforeEach
+    void setUp() {
+        when(azureVMService.maxOperationDuration()).thenReturn(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void rejectsRequestWithoutApiKey() throws Exception {
+        mockMvc.perform(post("/api/vms/vm-1/start"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void rejectsRequestWithWrongApiKey() throws Exception {
+        mockMvc.perform(post("/api/vms/vm-1/start").header(ApiKeyFilter.HEADER_NAME, "wrong"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void inProgressOperationReturnsAccepted() throws Exception {
+        givenSubmit(operation("op-1", OperationStatus.IN_PROGRESS));
+
+        performStart()
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("op-1"))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void notFoundOperationReturnsNotFound() throws Exception {
+        givenSubmit(operation("op-1", OperationStatus.NOT_FOUND));
+
+        performStart().andExpect(status().isNotFound());
+    }
+
+    @Test
+    void alreadyInStateOperationReturnsOk() throws Exception {
+        givenSubmit(operation("op-1", OperationStatus.ALREADY_IN_STATE));
+
+        performStart().andExpect(status().isOk());
+    }
+
+    @Test
+    void failedOperationReturnsBadGateway() throws Exception {
+        givenSubmit(operation("op-1", OperationStatus.FAILED));
+
+        performStart().andExpect(status().isBadGateway());
+    }
+
+    @Test
+    void lookupTimeoutReturnsGatewayTimeout() throws Exception {
+        givenSubmit(operation("op-1", OperationStatus.FAILED).toBuilder()
+                .errorType(AzureErrorType.LOOKUP_TIMEOUT)
+                .build());
+
+        performStart().andExpect(status().isGatewayTimeout());
+    }
+
+    @Test
+    void throttledStartReturnsServiceUnavailable() throws Exception {
+        givenSubmit(operation("op-1", OperationStatus.FAILED).toBuilder()
+                .errorType(AzureErrorType.THROTTLED)
+                .build());
+
+        performStart().andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void listTimeoutReturnsGatewayTimeout() throws Exception {
+        when(azureVMService.listVMInfosAsync()).thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        performGet("/api/vms")
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.errorType").value("LOOKUP_TIMEOUT"));
+    }
+
+    @Test
+    void throttledCostReturnsServiceUnavailable() throws Exception {
+        when(azureVMService.getCostSummaryAsync()).thenReturn(CompletableFuture.failedFuture(
+                new ManagementException("Too Many Requests", response(429))));
+
+        performGet("/api/vms/cost")
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errorType").value("THROTTLED"));
+    }
+
+    @Test
+    void authenticationFailureReturnsBadGateway() throws Exception {
+        when(azureVMService.listVMInfosAsync()).thenReturn(CompletableFuture.failedFuture(
+                new ClientAuthenticationException("invalid client secret", null)));
+
+        performGet("/api/vms")
+                .andExpect(status().isBadGateway())
+                .andExpect(jsonPath("$.errorType").value("AUTHENTICATION"));
+    }
+
+    @Test
+    void unknownOperationReturnsNotFound() throws Exception {
+        when(azureVMService.getOperation("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/operations/missing").header(ApiKeyFilter.HEADER_NAME, API_KEY))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void batchStreamsOneLinePerOperationUpdate() throws Exception {
+        VMOperation inProgress = operation("op-1", OperationStatus.IN_PROGRESS);
+        VMOperation succeeded = inProgress.toBuilder().status(OperationStatus.SUCCEEDED).build();
+        VMOperation notFound = operation("op-2", OperationStatus.NOT_FOUND);
+
+        when(azureVMService.submitOperations(anyList())).thenReturn(List.of(
+                CompletableFuture.completedFuture(inProgress),
+                CompletableFuture.completedFuture(notFound)));
+        when(azureVMService.awaitOperation("op-1")).thenReturn(CompletableFuture.completedFuture(succeeded));
+
+        MvcResult result = mockMvc.perform(post("/api/vms/batch")
+                        .header(ApiKeyFilter.HEADER_NAME, API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"actions\":[{\"vmName\":\"vm-1\",\"action\":\"START\"}," +
+                                "{\"vmName\":\"vm-2\",\"action\":\"START\"}]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        List<String> lines = result.getResponse().getContentAsString().lines().toList();
+        assertThat(lines).hasSize(3);
+
+        // VM 간 순서는 보장되지 않지만 같은 작업의 접수 결과는 최종 결과보다 먼저 전송
+        List<String> statuses = lines.stream()
+                .map(this::readStatus)
+                .toList();
+        assertThat(statuses).containsExactlyInAnyOrder("IN_PROGRESS", "SUCCEEDED", "NOT_FOUND");
+        assertThat(statuses.indexOf("IN_PROGRESS")).isLessThan(statuses.indexOf("SUCCEEDED"));
+    }
+
+    @Test
+    void batchWritesOffTheCompletingThread() throws Exception {
+        VMOperation inProgress = operation("op-1", OperationStatus.IN_PROGRESS);
+        VMOperation succeeded = inProgress.toBuilder().status(OperationStatus.SUCCEEDED).build();
+        CompletableFuture<VMOperation> accepted = new CompletableFuture<>();
+        CompletableFuture<VMOperation> completion = new CompletableFuture<>();
+
+        when(azureVMService.submitOperations(anyList())).thenReturn(List.of(accepted));
+        when(azureVMService.awaitOperation("op-1")).thenReturn(completion);
+
+        MvcResult result = mockMvc.perform(post("/api/vms/batch")
+                        .header(ApiKeyFilter.HEADER_NAME, API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"actions\":[{\"vmName\":\"vm-1\",\"action\":\"START\"}]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Azure 이벤트 루프를 흉내 낸 스레드에서 완료
+        Thread azureThread = new Thread(() -> {
+            accepted.complete(inProgress);
+            completion.complete(succeeded);
+        }, "azure-event-loop");
+        azureThread.start();
+        azureThread.join(5000);
+
+        result.getAsyncResult(5000);
+        List<String> statuses = result.getResponse().getContentAsString().lines()
+                .map(this::readStatus)
+                .toList();
+        assertThat(statuses).containsExactly("IN_PROGRESS", "SUCCEEDED");
+    }
+
+    @Test
+    void batchReportsPendingOperationsWhenDeadlinePasses() throws Exception {
+        VMOperation inProgress = operation("op-1", OperationStatus.IN_PROGRESS);
+
+        when(azureVMService.maxOperationDuration()).thenReturn(Duration.ofMillis(200));
+        when(azureVMService.submitOperations(anyList()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(inProgress)));
+        when(azureVMService.awaitOperation("op-1")).thenReturn(new CompletableFuture<>());
+        when(azureVMService.getOperation("op-1")).thenReturn(Optional.of(inProgress));
+
+        MvcResult result = mockMvc.perform(post("/api/vms/batch")
+                        .header(ApiKeyFilter.HEADER_NAME, API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"actions\":[{\"vmName\":\"vm-1\",\"action\":\"START\"}]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        List<String> lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines).extracting(this::readStatus).containsExactly("IN_PROGRESS", "IN_PROGRESS");
+        assertThat(objectMapper.readTree(lines.get(1)).get("message").asText()).contains("/api/operations/op-1");
+    }
+
+    @Test
+    void batchRejectsDuplicateVMNames() throws Exception {
+        mockMvc.perform(post("/api/vms/batch")
+                        .header(ApiKeyFilter.HEADER_NAME, API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"actions\":[{\"vmName\":\"vm-1\",\"action\":\"START\"}," +
+                                "{\"vmName\":\"VM-1\",\"action\":\"STOP\"}]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(azureVMService, never()).submitOperations(anyList());
+    }
+
+    @Test
+    void batchRejectsEmptyActions() throws Exception {
+        mockMvc.perform(post("/api/vms/batch")
+                        .header(ApiKeyFilter.HEADER_NAME, API_KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"actions\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions performStart() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/vms/vm-1/start").header(ApiKeyFilter.HEADER_NAME, API_KEY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private ResultActions performGet(String path) throws Exception {
+        MvcResult result = mockMvc.perform(get(path).header(ApiKeyFilter.HEADER_NAME, API_KEY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private HttpResponse response(int statusCode) {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(statusCode);
+        return response;
+    }
+
+    private void givenSubmit(VMOperation operation) {
+        when(azureVMService.submitOperation("vm-1", VMAction.START))
+                .thenReturn(CompletableFuture.completedFuture(operation));
+    }
+
+    private String readStatus(String line) {
+        try {
+            return objectMapper.readTree(line).get("status").asText();
+        } catch (Exception e) {
+            throw new IllegalStateException("NDJSON 파싱 실패: " + line, e);
+        }
+    }
+
+    private VMOperation operation(String id, OperationStatus status) {
+        return VMOperation.builder()
+                .id(id)
+                .vmName("vm-1")
+                .action(VMAction.START)
+                .status(status)
+                .requestedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.azure.discord.service;
+
+import com.azure.core.exception.ClientAuthenticationException;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.management.exception.ManagementException;
+import com.azure.discord.dto.AzureErrorType;
+import io.netty.handler.codec.TooLongFrameException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import reactor.netty.http.client.PrematureCloseException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AzureErrorClassifierTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "401, AUTHENTICATION",
+            "403, AUTHENTICATION",
+            "404, NOT_FOUND",
+            "409, CONFLICT",
+            "429, THROTTLED",
+            "400, CLIENT_ERROR",
+            "412, CLIENT_ERROR",
+            "500, SERVER_ERROR",
+            "503, SERVER_ERROR",
+            "200, UNKNOWN"
+    })
+    void mapsStatusCodes(int statusCode, AzureErrorType expected) {
+        assertThat(AzureErrorClassifier.fromStatusCode(statusCode)).isEqualTo(expected);
+    }
+
+    @Test
+    void classifiesManagementExceptionByStatusCode() {
+        assertThat(AzureErrorClassifier.classify(new ManagementException("Conflict", response(409))))
+                .isEqualTo(AzureErrorType.CONFLICT);
+    }
+
+    @Test
+    void walksCauseChain() {
+        Throwable wrapped = new CompletionException(
+                new RuntimeException(new ManagementException("Too Many Requests", response(429))));
+
+        assertThat(AzureErrorClassifier.classify(wrapped)).isEqualTo(AzureErrorType.THROTTLED);
+    }
+
+    @Test
+    void classifiesCredentialFailureAsAuthentication() {
+        assertThat(AzureErrorClassifier.classify(new ClientAuthenticationException("invalid secret", null)))
+                .isEqualTo(AzureErrorType.AUTHENTICATION);
+    }
+
+    @Test
+    void classifiesOversizedHeaderAsUnknownOutcome() {
+        Throwable error = new RuntimeException(
+                new TooLongFrameException("HTTP header is larger than 8192 bytes."));
+
+        assertThat(AzureErrorClassifier.classify(error)).isEqualTo(AzureErrorType.UNKNOWN_OUTCOME);
+    }
+
+    @Test
+    void classifiesTimeoutAsUnknownOutcome() {
+        assertThat(AzureErrorClassifier.classify(new TimeoutException()))
+                .isEqualTo(AzureErrorType.UNKNOWN_OUTCOME);
+    }
+
+    @Test
+    void classifiesPrematureCloseAsUnknownOutcome() {
+        assertThat(AzureErrorClassifier.classify(mock(PrematureCloseException.class)))
+                .isEqualTo(AzureErrorType.UNKNOWN_OUTCOME);
+    }
+
+    @Test
+    void classifiesUnsentRequestAsConnectionFailed() {
+        assertThat(AzureErrorClassifier.classify(new ConnectException("Connection refused")))
+                .isEqualTo(AzureErrorType.CONNECTION_FAILED);
+        assertThat(AzureErrorClassifier.classify(new UnknownHostException("management.azure.com")))
+                .isEqualTo(AzureErrorType.CONNECTION_FAILED);
+    }
+
+    @Test
+    void classifiesOtherIOExceptionAsUnknown() {
+        assertThat(AzureErrorClassifier.classify(new IOException("boom")))
+                .isEqualTo(AzureErrorType.UNKNOWN);
+    }
+
+    private HttpResponse response(int statusCode) {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(statusCode);
+        return response;
+    }
+}
@@ -0,0 +1,251 @@
+package com.azure.discord.service;
+
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.PagedResponseBase;
+import com.azure.core.management.Region;
+import com.azure.core.management.exception.ManagementException;
+import com.azure.discord.config.AzureHttpProperties;
+import com.azure.discord.dto.AzureErrorType;
+import com.azure.discord.dto.OperationStatus;
+import com.azure.discord.dto.VMAction;
+import com.azure.discord.dto.VMActionRequest;
+import com.azure.discord.dto.VMOperation;
+import com.azure.resourcemanager.AzureResourceManager;
+import com.azure.resourcemanager.compute.models.InstanceViewStatus;
+import com.azure.resourcemanager.compute.models.PowerState;
+import com.azure.resourcemanager.compute.models.VirtualMachine;
+import com.azure.resourcemanager.compute.models.VirtualMachineInstanceView;
+import com.azure.resourcemanager.compute.models.VirtualMachineSizeTypes;
+import com.azure.resourcemanager.compute.models.VirtualMachines;
+import net.dv8tion.jda.api.JDA;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AzureVMServiceTest {
+
+    private final AzureHttpProperties httpProperties = new AzureHttpProperties();
+    private VirtualMachines virtualMachines;
+    private AzureVMService azureVMService;
+
+    @BeforeEach
+    void setUp() {
+        AzureResourceManager azure = mock(AzureResourceManager.class);
+        virtualMachines = mock(VirtualMachines.class);
+        when(azure.virtualMachines()).thenReturn(virtualMachines);
+        azureVMService = new AzureVMService(azure, mock(JDA.class), httpProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        azureVMService.shutdown();
+    }
+
+    @Test
+    void missingVMCompletesAsNotFound() {
+        givenVMs();
+
+        VMOperation operation = azureVMService.submitOperation("missing-vm", VMAction.START).join();
+
+        assertThat(operation.getStatus()).isEqualTo(OperationStatus.NOT_FOUND);
+        assertThat(azureVMService.awaitOperation(operation.getId())).isCompletedWithValue(operation);
+    }
+
+    @Test
+    void runningVMStartCompletesAsAlreadyInState() {
+        VirtualMachine vm = mockVM("vm-1", PowerState.RUNNING);
+        givenVMs(vm);
+
+        VMOperation operation = azureVMService.submitOperation("VM-1", VMAction.START).join();
+
+        assertThat(operation.getStatus()).isEqualTo(OperationStatus.ALREADY_IN_STATE);
+        verify(vm, never()).startAsync();
+    }
+
+    @Test
+    void deallocatedVMStopCompletesAsAlreadyInState() {
+        VirtualMachine vm = mockVM("vm-1", PowerState.DEALLOCATED);
+        givenVMs(vm);
+
+        VMOperation operation = azureVMService.submitOperation("vm-1", VMAction.STOP).join();
+
+        assertThat(operation.getStatus()).isEqualTo(OperationStatus.ALREADY_IN_STATE);
+        verify(vm, never()).deallocateAsync();
+    }
+
+    @Test
+    void successfulStartCompletesAsSucceeded() {
+        VirtualMachine vm = mockVM("vm-1", PowerState.DEALLOCATED);
+        when(vm.startAsync()).thenReturn(Mono.empty());
+        givenVMs(vm);
+
+        VMOperation operation = azureVMService.submitOperation("vm-1", VMAction.START).join();
+
+        assertThat(azureVMService.awaitOperation(operation.getId()).join().getStatus())
+                .isEqualTo(OperationStatus.SUCCEEDED);
+    }
+
+    @Test
+    void conflictKeepsOperationInProgressForStatusCheck() {
+        VirtualMachine vm = mockVM("vm-1", PowerState.DEALLOCATED);
+        when(vm.startAsync()).thenReturn(Mono.error(new ManagementException("Conflict", response(409))));
+        givenVMs(vm);
+
+        VMOperation operation = azureVMService.submitOperation("vm-1", VMAction.START).join();
+
+        assertThat(azureVMService.awaitOperation(operation.getId())).isNotDone();
+        assertThat(azureVMService.getOperation(operation.getId()))
+                .hasValueSatisfying(current -> assertThat(current.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void conflictPollsResolvedVMWithoutListingAgain() {
+        VirtualTimeScheduler virtualTime = VirtualTimeScheduler.getOrSet();
+        try {
+            VirtualMachine vm = mockVM("vm-1", PowerState.DEALLOCATED);
+            when(vm.refreshInstanceViewAsync()).thenReturn(
+                    Mono.just(instanceView(PowerState.DEALLOCATED)),
+                    Mono.just(instanceView(PowerState.STARTING)),
+                    Mono.just(instanceView(PowerState.RUNNING)));
+            when(vm.startAsync()).thenReturn(Mono.error(new ManagementException("Conflict", response(409))));
+            givenVMs(vm);
+
+            VMOperation operation = azureVMService.submitOperation("vm-1", VMAction.START).join();
+            CompletableFuture<VMOperation> completion = azureVMService.awaitOperation(operation.getId());
+
+            virtualTime.advanceTimeBy(Duration.ofSeconds(30));
+            assertThat(completion).isNotDone();
+
+            virtualTime.advanceTimeBy(Duration.ofSeconds(30));
+            assertThat(completion.join().getStatus()).isEqualTo(OperationStatus.SUCCEEDED);
+            verify(virtualMachines, times(1)).listAsync();
+        } finally {
+            VirtualTimeScheduler.reset();
+        }
+    }
+
+    @Test
+    void rejectedStartCompletesAsFailed() {
+        VirtualMachine vm = mockVM("vm-1", PowerState.DEALLOCATED);
+        when(vm.startAsync()).thenReturn(Mono.error(new ManagementException("Bad Request", response(400))));
+        givenVMs(vm);
+
+        VMOperation operation = azureVMService.submitOperation("vm-1", VMAction.START).join();
+        VMOperation result = azureVMService.awaitOperation(operation.getId()).join();
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(result.getErrorType()).isEqualTo(AzureErrorType.CLIENT_ERROR);
+    }
+
+    @Test
+    void notFoundDuringStartCompletesAsNotFound() {
+        VirtualMachine vm = mockVM("vm-1", PowerState.DEALLOCATED);
+        when(vm.startAsync()).thenReturn(Mono.error(new ManagementException("Not Found", response(404))));
+        givenVMs(vm);
+
+        VMOperation operation = azureVMService.submitOperation("vm-1", VMAction.START).join();
+
+        assertThat(azureVMService.awaitOperation(operation.getId()).join().getStatus())
+                .isEqualTo(OperationStatus.NOT_FOUND);
+    }
+
+    @Test
+    void connectionFailureFailsWithoutStatusCheck() {
+        VirtualMachine vm = mockVM("vm-1", PowerState.DEALLOCATED);
+        when(vm.startAsync()).thenReturn(Mono.error(new ConnectException("Connection refused")));
+        givenVMs(vm);
+
+        VMOperation operation = azureVMService.submitOperation("vm-1", VMAction.START).join();
+        VMOperation result = azureVMService.awaitOperation(operation.getId()).join();
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(result.getErrorType()).isEqualTo(AzureErrorType.CONNECTION_FAILED);
+    }
+
+    @Test
+    void lookupTimeoutNeverSendsPowerAction() {
+        httpProperties.setLookupTimeout(Duration.ofMillis(50));
+        VirtualMachine vm = mock(VirtualMachine.class);
+        when(vm.name()).thenReturn("vm-1");
+        when(vm.refreshInstanceViewAsync()).thenReturn(Mono.never());
+        givenVMs(vm);
+
+        VMOperation operation = azureVMService.submitOperation("vm-1", VMAction.START).join();
+
+        assertThat(operation.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(operation.getErrorType()).isEqualTo(AzureErrorType.LOOKUP_TIMEOUT);
+        verify(vm, never()).startAsync();
+    }
+
+    @Test
+    void batchDispatchesEachVMIndependently() {
+        VirtualMachine running = mockVM("vm-1", PowerState.RUNNING);
+        VirtualMachine stopped = mockVM("vm-2", PowerState.DEALLOCATED);
+        when(stopped.startAsync()).thenReturn(Mono.empty());
+        givenVMs(running, stopped);
+
+        List<VMOperation> accepted = azureVMService.submitOperations(List.of(
+                        new VMActionRequest("vm-1", VMAction.START),
+                        new VMActionRequest("vm-2", VMAction.START),
+                        new VMActionRequest("vm-3", VMAction.START)))
+                .stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        assertThat(accepted).extracting(VMOperation::getStatus).containsExactly(
+                OperationStatus.ALREADY_IN_STATE, OperationStatus.IN_PROGRESS, OperationStatus.NOT_FOUND);
+        verify(virtualMachines).listAsync();
+    }
+
+    @Test
+    void discordListUsesSharedLookup() {
+        VirtualMachine vm = mockVM("vm-1", PowerState.RUNNING);
+        when(vm.resourceGroupName()).thenReturn("rg-1");
+        when(vm.region()).thenReturn(Region.KOREA_CENTRAL);
+        when(vm.size()).thenReturn(VirtualMachineSizeTypes.STANDARD_B1S);
+        givenVMs(vm);
+
+        String response = azureVMService.listVMs();
+
+        assertThat(response).contains("vm-1", "rg-1", "Korea Central", "실행 중");
+        verify(vm, never()).powerState();
+    }
+
+    private void givenVMs(VirtualMachine... vms) {
+        when(virtualMachines.listAsync()).thenReturn(new PagedFlux<>(() -> Mono.just(
+                new PagedResponseBase<Void, VirtualMachine>(null, 200, null, List.of(vms), null, null))));
+    }
+
+    private VirtualMachine mockVM(String name, PowerState state) {
+        VirtualMachine vm = mock(VirtualMachine.class);
+        when(vm.name()).thenReturn(name);
+        when(vm.refreshInstanceViewAsync()).thenReturn(Mono.just(instanceView(state)));
+        return vm;
+    }
+
+    private VirtualMachineInstanceView instanceView(PowerState state) {
+        return new VirtualMachineInstanceView()
+                .withStatuses(List.of(new InstanceViewStatus().withCode(state.toString())));
+    }
+
+    private HttpResponse response(int statusCode) {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(statusCode);
+        return response;
+    }
+}